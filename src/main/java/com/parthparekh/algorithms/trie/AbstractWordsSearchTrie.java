@@ -0,0 +1,139 @@
+package com.parthparekh.algorithms.trie;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Set;
+
+/**
+ * Base class for Trie implementations used for searching words from dictionary with wild card (? and *) characters;
+ * holds the wordlist loading, pattern checks and command line search shared by them
+ */
+public abstract class AbstractWordsSearchTrie implements Trie {
+
+    /*
+     * loads the words from wordlist file into trie;
+     * it assumes the wordlist file contains words delimited by newline
+     *
+     * @param filePath absolute file path of the wordlist file
+     */
+    public void loadTrie(String filePath) throws IOException {
+        if (filePath == null || filePath.isEmpty()) {
+            throw new IllegalArgumentException("wordlist file path invalid");
+        }
+
+        try {
+            File file = new File(filePath);
+            @SuppressWarnings("resource")
+	    BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file)));
+            String word;
+            while ((word = reader.readLine()) != null) {
+                assert word != null;
+                word = word.replaceAll("\\s", "").toLowerCase();
+                addString(word);
+            }
+        }
+        catch (IOException ioException) {
+  	    throw ioException;
+        }
+    }
+
+    // checks if string passed is a valid string for word solver trie
+    // i.e. only consisting of '?', '*' and alphanumeric characters
+    protected boolean isValidString(String wordString) {
+        if (wordString == null || wordString.isEmpty()) {
+            return false;
+        }
+        String newWordString = wordString.replaceAll("[^*?0-9A-Za-z]", "");
+        return wordString.trim().length() == newWordString.trim().length() ? true : false;
+    }
+
+    // replace multiple asterisk with single one
+    protected String preProcessWord(String wordString) {
+        if (wordString == null || wordString.isEmpty() || !isAsterixPresent(wordString)) {
+            return wordString;
+        }
+        StringBuffer buf = new StringBuffer();
+        boolean firstAsteriskFlag = false;
+        for(char ch : wordString.toCharArray()) {
+        	if(ch == '*') {
+        		// only add for first '*'
+        		if(!firstAsteriskFlag) {
+        			buf.append(ch);
+        			firstAsteriskFlag = true;
+        		}
+        	}
+        	else {
+        		buf.append(ch);
+        		firstAsteriskFlag = false;
+        	}
+        }
+        return buf.toString();
+    }
+    
+    // checks if asterisk is present
+    protected boolean isAsterixPresent(String wordString) {
+        if (wordString == null || wordString.isEmpty()) {
+            return false;
+        }
+        return wordString.contains("*") ? true : false;
+    }
+
+    // adds set to the wordSet only if it is not null
+    protected Set<String> addToSetIfNotNull(Set<String> wordSet, Set<String> setToAdd) {
+    	assert wordSet!=null;
+    	if(setToAdd!=null && !setToAdd.isEmpty()) {
+    		wordSet.addAll(setToAdd);
+    	}
+	return wordSet;
+    }
+
+    /*
+     * search all the words that satisfy the wordString format
+     *
+     * @param wordString string of characters including wild card characters '?' and '*'
+     * @return returns set of all strings that satisfy the wordString format, null otherwise
+     */
+    public abstract Set<String> searchWords(String wordString);
+
+    /*
+     * prints usage instructions
+     */
+    protected static void usage(String className) {
+        System.out.println("Usage:");
+        System.out.println("\tjava -cp Trie.jar " + className + " " +
+                                    "<absolute_path_to_wordlist_file> <wildcard_word_to_search>");
+        System.out.println("\t(use '?' for one character and '*' for zero or more, as wildcards)");
+        System.out.println("");
+    }
+
+    /*
+     * loads the wordlist into given trie and prints the words matching the pattern, as passed on command line
+     *
+     * @param wordsSearchTrie empty trie to search the words with
+     * @param args absolute path to wordlist file and pattern to search
+     */
+    protected static void runSearch(AbstractWordsSearchTrie wordsSearchTrie, String[] args) throws IOException {
+        if (args.length < 2) {
+            usage(wordsSearchTrie.getClass().getName());
+            System.exit(1);
+        }
+        String wordlistPath = args[0];
+        assert !wordlistPath.isEmpty();
+        wordsSearchTrie.loadTrie(wordlistPath);
+
+        String word = args[1];
+        assert !word.isEmpty();
+
+        Set<String> validWords = wordsSearchTrie.searchWords(word);
+        System.out.println("Total " + validWords.size() + " matching words found for: " + word);
+        System.out.println();
+        int count = 0;
+        for (String setWord : validWords) {
+            System.out.println("" + ++count + ". " + setWord);
+        }
+        System.out.println();
+    }
+}
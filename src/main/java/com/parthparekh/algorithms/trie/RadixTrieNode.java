@@ -0,0 +1,176 @@
+package com.parthparekh.algorithms.trie;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A node implementation for a radix trie (http://en.wikipedia.org/wiki/Radix_tree)
+ * Each node holds the run of characters on the edge leading to it, children are keyed by first character of their run
+ * Note: this implementation is not thread safe
+ **/
+public class RadixTrieNode {
+	private static final char[] EMPTY_LABEL = new char[0];
+
+	private boolean isFinalChar;
+	private char[] label;
+	private Map<Character, RadixTrieNode> childrenMap;
+
+	// creates empty root trie node
+	public RadixTrieNode() {
+		label = EMPTY_LABEL;
+	}
+
+	// this should be called by addChild and splitAt only
+	private RadixTrieNode(char[] label, boolean isFinalChar) {
+		this.label = label;
+		this.isFinalChar = isFinalChar;
+	}
+
+	/**
+	 * adds child with given characters as edge label, if there is no child starting with the same character
+	 *
+	 * @param wordArray
+	 * @param fromIndex index of the first character of the label in wordArray
+	 * @return returns the child added, null if there was already a child starting with that character
+	 */
+	public RadixTrieNode addChild(char[] wordArray, int fromIndex) {
+		if (fromIndex >= wordArray.length) {
+			throw new IllegalArgumentException("edge label should not be empty");
+		}
+		// only create children when you're adding first child
+		if (childrenMap == null) {
+			childrenMap = new TreeMap<Character, RadixTrieNode>();
+		}
+		Character charValueObject = Character.valueOf(wordArray[fromIndex]);
+		if (childrenMap.containsKey(charValueObject)) {
+			return null;
+		}
+		RadixTrieNode childNode = new RadixTrieNode(Arrays.copyOfRange(wordArray, fromIndex, wordArray.length), true);
+		childrenMap.put(charValueObject, childNode);
+		return childNode;
+	}
+
+	/**
+	 * removes child whose edge label starts with given character
+	 *
+	 * @param charValue
+	 * @return returns true if the remove was successful, false if there was no child found with that charValue
+	 */
+	public boolean removeChild(char charValue) {
+		Character charValueObject = Character.valueOf(charValue);
+		if (childrenMap == null || !childrenMap.containsKey(charValueObject)) {
+			return false;
+		}
+		childrenMap.remove(charValueObject);
+		if (childrenMap.isEmpty()) {
+			childrenMap = null;
+		}
+		return true;
+	}
+
+	/**
+	 * returns the child whose edge label starts with given character if it exists
+	 *
+	 * @param charValue
+	 * @return returns RadixTrieNode object for child if it exists, null otherwise
+	 */
+	public RadixTrieNode getChild(char charValue) {
+		if (childrenMap == null) {
+			return null;
+		}
+		return childrenMap.get(Character.valueOf(charValue));
+	}
+
+	/**
+	 * returns all the children nodes of current RadixTrieNode
+	 *
+	 * @return returns Collection of all the RadixTrieNode objects if it exists, null otherwise
+	 */
+	public Collection<RadixTrieNode> getChildrenNodes() {
+		if (childrenMap == null) {
+			return null;
+		}
+		return childrenMap.values();
+	}
+
+	public int getChildrenCount() {
+		return childrenMap == null ? 0 : childrenMap.size();
+	}
+
+	/**
+	 * splits the edge label of this node at given length; this node keeps the first labelLength characters
+	 * and a new single child takes the rest of the label along with final flag and children of this node
+	 *
+	 * @param labelLength number of characters of the label this node keeps
+	 */
+	public void splitAt(int labelLength) {
+		if (labelLength <= 0 || labelLength >= label.length) {
+			throw new IllegalArgumentException("split should leave non empty labels on both nodes");
+		}
+		RadixTrieNode tailNode = new RadixTrieNode(Arrays.copyOfRange(label, labelLength, label.length), isFinalChar);
+		tailNode.childrenMap = childrenMap;
+		label = Arrays.copyOf(label, labelLength);
+		isFinalChar = false;
+		childrenMap = new TreeMap<Character, RadixTrieNode>();
+		childrenMap.put(Character.valueOf(tailNode.label[0]), tailNode);
+	}
+
+	/**
+	 * merges the only child of this node into it, appending child's edge label to this node's label
+	 *
+	 * @return returns true if the merge was successful, false if this node is final or has other than one child
+	 */
+	public boolean mergeWithChild() {
+		if (isFinalChar || getChildrenCount() != 1) {
+			return false;
+		}
+		RadixTrieNode childNode = childrenMap.values().iterator().next();
+		char[] mergedLabel = Arrays.copyOf(label, label.length + childNode.label.length);
+		System.arraycopy(childNode.label, 0, mergedLabel, label.length, childNode.label.length);
+		label = mergedLabel;
+		isFinalChar = childNode.isFinalChar;
+		childrenMap = childNode.childrenMap;
+		return true;
+	}
+
+	/**
+	 * returns number of leading characters of the edge label matching wordArray from given index
+	 *
+	 * @param wordArray
+	 * @param fromIndex
+	 * @return returns length of common prefix of label and wordArray from fromIndex
+	 */
+	public int matchLength(char[] wordArray, int fromIndex) {
+		int length = 0;
+		while (length < label.length && fromIndex + length < wordArray.length
+				&& label[length] == wordArray[fromIndex + length]) {
+			length++;
+		}
+		return length;
+	}
+
+	// returned array is the node's own label, it should not be modified by callers
+	public char[] getLabel() {
+		return label;
+	}
+
+	public boolean isFinalChar() {
+		return isFinalChar;
+	}
+
+	public void setFinalChar(boolean isFinalChar) {
+		this.isFinalChar = isFinalChar;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder toString = new StringBuilder();
+		toString.append("nodeLabel: " + new String(label) + "; isFinalChar: " + isFinalChar + "; children: ");
+		if (childrenMap != null) {
+			return toString.append(childrenMap.keySet().toString()).toString();
+		}
+		return toString.append("no childrens").toString();
+	}
+}
@@ -0,0 +1,197 @@
+package com.parthparekh.algorithms.trie;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Compressed alternative to WordsSearchTrie where chains of single child nodes are merged into one node
+ * holding the whole run of characters (http://en.wikipedia.org/wiki/Radix_tree)
+ * Search results are identical to WordsSearchTrie, with fewer nodes to allocate and to walk through
+ */
+public class RadixWordsSearchTrie extends AbstractWordsSearchTrie {
+    protected RadixTrieNode radixRoot;
+    public RadixWordsSearchTrie() {
+        radixRoot = new RadixTrieNode();
+    }
+
+    @Override
+    public boolean addString(String wordString) {
+        if (wordString==null || wordString.isEmpty()) {
+            return false;
+        }
+        char[] wordCharArr = wordString.toLowerCase().toCharArray();
+        RadixTrieNode node = radixRoot;
+        int index = 0;
+        while (index < wordCharArr.length) {
+            RadixTrieNode child = node.getChild(wordCharArr[index]);
+            if (child == null) {
+                node.addChild(wordCharArr, index);
+                return true;
+            }
+            int matchLength = child.matchLength(wordCharArr, index);
+            // word diverges or ends in the middle of the edge, so split it there
+            if (matchLength < child.getLabel().length) {
+                child.splitAt(matchLength);
+            }
+            node = child;
+            index += matchLength;
+        }
+        node.setFinalChar(true);
+        return true;
+    }
+
+    @Override
+    public boolean removeString(String wordString) {
+        if (wordString==null || wordString.isEmpty()) {
+            return false;
+        }
+        char[] wordCharArr = wordString.toLowerCase().toCharArray();
+        RadixTrieNode parent = null;
+        RadixTrieNode node = radixRoot;
+        int index = 0;
+        while (index < wordCharArr.length) {
+            RadixTrieNode child = node.getChild(wordCharArr[index]);
+            if (child == null || child.matchLength(wordCharArr, index) != child.getLabel().length) {
+                return false;
+            }
+            parent = node;
+            node = child;
+            index += child.getLabel().length;
+        }
+        if (!node.isFinalChar()) {
+            return false;
+        }
+        node.setFinalChar(false);
+        if (node.getChildrenCount() == 0) {
+            parent.removeChild(node.getLabel()[0]);
+            // parent may be left with a single child, merge it back unless it's the root
+            if (parent != radixRoot) {
+                parent.mergeWithChild();
+            }
+        } else {
+            node.mergeWithChild();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean hasString(String wordString) {
+        if (wordString==null || wordString.isEmpty()) {
+            return false;
+        }
+        char[] wordCharArr = wordString.toLowerCase().toCharArray();
+        RadixTrieNode node = radixRoot;
+        int index = 0;
+        while (index < wordCharArr.length) {
+            node = node.getChild(wordCharArr[index]);
+            if (node == null || node.matchLength(wordCharArr, index) != node.getLabel().length) {
+                return false;
+            }
+            index += node.getLabel().length;
+        }
+        // return true only if the word ends at a final node i.e. don't return true for subset strings
+        return node.isFinalChar();
+    }
+
+    @Override
+    public char[] getNextCharacters(String prefixString) {
+        throw new UnsupportedOperationException(
+                "get next characters not yet supported for RadixWordsSearchTrie implementation");
+    }
+
+    @Override
+    public Set<String> searchWords(String wordString) {
+        if (!isValidString(wordString)) {
+            return null;
+        }
+        wordString = preProcessWord(wordString.toLowerCase());
+        Set<String> wordSet = new HashSet<String>();
+        searchNode(radixRoot, wordString.toCharArray(), 0, new StringBuilder(), wordSet);
+        return wordSet.isEmpty() ? null : wordSet;
+    }
+
+    /*
+     * returns number of nodes in the trie, including the root
+     */
+    public int getNodeCount() {
+        return countNodes(radixRoot);
+    }
+
+    // matches the pattern from curIndex against the children of curNode, whose label is already in wordFormed
+    private void searchNode(RadixTrieNode curNode, char[] wordArray, int curIndex, StringBuilder wordFormed,
+                            Set<String> wordSet) {
+        if (curIndex >= wordArray.length) {
+            if (curNode.isFinalChar() && wordFormed.length() != 0) {
+                wordSet.add(wordFormed.toString());
+            }
+            return;
+        }
+        char curChar = wordArray[curIndex];
+        if (curChar == '*') {
+            // '*' matching no characters, or swallowing at least the first character of a child's label
+            searchNode(curNode, wordArray, curIndex+1, wordFormed, wordSet);
+            searchChildren(curNode, 1, wordArray, curIndex, wordFormed, wordSet);
+        } else if (curChar == '?') {
+            searchChildren(curNode, 0, wordArray, curIndex, wordFormed, wordSet);
+        } else {
+            // literal only continues into the single child starting with it
+            RadixTrieNode node = curNode.getChild(curChar);
+            if (node != null) {
+                searchEdge(node, 0, wordArray, curIndex, wordFormed, wordSet);
+            }
+        }
+    }
+
+    // matches the pattern from curIndex against the edge labels of all children of curNode from labelIndex
+    private void searchChildren(RadixTrieNode curNode, int labelIndex, char[] wordArray, int curIndex,
+                                StringBuilder wordFormed, Set<String> wordSet) {
+        Collection<RadixTrieNode> childrenNodes = curNode.getChildrenNodes();
+        if (childrenNodes != null) {
+            for (RadixTrieNode node : childrenNodes) {
+                searchEdge(node, labelIndex, wordArray, curIndex, wordFormed, wordSet);
+            }
+        }
+    }
+
+    // matches the pattern from curIndex against the edge label of curNode from labelIndex
+    private void searchEdge(RadixTrieNode curNode, int labelIndex, char[] wordArray, int curIndex,
+                            StringBuilder wordFormed, Set<String> wordSet) {
+        char[] label = curNode.getLabel();
+        // compare '?' and literals against the label in one pass until a '*' or either one runs out
+        while (labelIndex < label.length && curIndex < wordArray.length && wordArray[curIndex] != '*') {
+            if (wordArray[curIndex] != '?' && wordArray[curIndex] != label[labelIndex]) {
+                return;
+            }
+            labelIndex++;
+            curIndex++;
+        }
+        if (labelIndex == label.length) {
+            int formedLength = wordFormed.length();
+            wordFormed.append(label);
+            searchNode(curNode, wordArray, curIndex, wordFormed, wordSet);
+            wordFormed.setLength(formedLength);
+        } else if (curIndex < wordArray.length) {
+            // '*' in the middle of the edge either ends here or swallows one more label character
+            searchEdge(curNode, labelIndex, wordArray, curIndex+1, wordFormed, wordSet);
+            searchEdge(curNode, labelIndex+1, wordArray, curIndex, wordFormed, wordSet);
+        }
+    }
+
+    // counts the nodes in the subtree rooted at node
+    private int countNodes(RadixTrieNode node) {
+        int count = 1;
+        Collection<RadixTrieNode> childrenNodes = node.getChildrenNodes();
+        if (childrenNodes != null) {
+            for (RadixTrieNode childNode : childrenNodes) {
+                count += countNodes(childNode);
+            }
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws IOException {
+        runSearch(new RadixWordsSearchTrie(), args);
+    }
+}
@@ -0,0 +1,215 @@
+package com.parthparekh.algorithms.trie;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Implementation of Trie that partitions words by prefix range across multiple WordsSearchTrie shards.
+ * Each shard owns the words from its lower bound (inclusive) up to the lower bound of the next shard (exclusive).
+ * Patterns starting with a literal prefix are routed only to the shards owning that prefix range, patterns
+ * starting with a wild card are scattered to all shards and the results are merged as each shard completes.
+ * A shard is split at its median word when it grows past the configured maximum size.
+ * Note: all shards live in the same heap, so sharding bounds the size of each trie and not the total memory used.
+ * Note: this implementation is not thread safe
+ **/
+public class ShardedTrie extends AbstractWordsSearchTrie {
+    // letters used to spread the initial shard lower bounds, digits and words before the first bound go to first shard
+    private static final String SHARD_KEY_CHARS = "abcdefghijklmnopqrstuvwxyz";
+
+    private final int maxShardSize;
+    private final TreeMap<String, Shard> shardMap;
+    private final ExecutorService searchExecutor;
+
+    /*
+     * creates sharded trie with given number of initial shards
+     *
+     * @param shardCount number of shards to partition words into initially
+     * @param maxShardSize number of words after which a shard is split into two
+     */
+    public ShardedTrie(int shardCount, int maxShardSize) {
+        if (shardCount < 1 || shardCount > SHARD_KEY_CHARS.length()) {
+            throw new IllegalArgumentException("shard count should be between 1 and " + SHARD_KEY_CHARS.length());
+        }
+        if (maxShardSize < 1) {
+            throw new IllegalArgumentException("max shard size should be positive");
+        }
+        this.maxShardSize = maxShardSize;
+        shardMap = new TreeMap<String, Shard>();
+        // first shard starts at empty string, so every word has an owning shard
+        shardMap.put("", new Shard(createShardTrie(), 0));
+        for (int i = 1; i < shardCount; i++) {
+            String lowerBound = String.valueOf(SHARD_KEY_CHARS.charAt(i * SHARD_KEY_CHARS.length() / shardCount));
+            shardMap.put(lowerBound, new Shard(createShardTrie(), 0));
+        }
+        // thread count is bounded by processors, not by number of shards which grows with rebalancing
+        searchExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "sharded-trie-search");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    // creates an empty trie for a new shard
+    protected WordsSearchTrie createShardTrie() {
+        return new WordsSearchTrie();
+    }
+
+    @Override
+    public boolean addString(String wordString) {
+        if (wordString == null || wordString.isEmpty()) {
+            return false;
+        }
+        wordString = wordString.toLowerCase();
+        Shard shard = shardMap.floorEntry(wordString).getValue();
+        if (!shard.trie.addNewString(wordString)) {
+            return true;
+        }
+        shard.size++;
+        if (shard.size > maxShardSize) {
+            splitShard(shard);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeString(String wordString) {
+        throw new UnsupportedOperationException(
+                "remove string not yet supported for ShardedTrie implementation");
+    }
+
+    @Override
+    public boolean hasString(String wordString) {
+        if (wordString == null || wordString.isEmpty()) {
+            return false;
+        }
+        wordString = wordString.toLowerCase();
+        return shardMap.floorEntry(wordString).getValue().trie.hasString(wordString);
+    }
+
+    @Override
+    public char[] getNextCharacters(String prefixString) {
+        throw new UnsupportedOperationException(
+                "get next characters not yet supported for ShardedTrie implementation");
+    }
+
+    /*
+     * search all the words that satisfy the wordString format from the shards owning its literal prefix
+     *
+     * @param wordString string of characters including wild card characters '?' and '*'
+     * @return returns set of all strings that satisfy the wordString format, null otherwise
+     */
+    @Override
+    public Set<String> searchWords(final String wordString) {
+        if (!isValidString(wordString)) {
+            return null;
+        }
+        List<Shard> targetShards = getShardsForPrefix(getLiteralPrefix(wordString.toLowerCase()));
+        if (targetShards.size() == 1) {
+            return targetShards.get(0).trie.searchWords(wordString);
+        }
+
+        // scatter the search to all target shards and merge results in order of completion
+        CompletionService<Set<String>> completionService = new ExecutorCompletionService<Set<String>>(searchExecutor);
+        for (final Shard shard : targetShards) {
+            completionService.submit(new Callable<Set<String>>() {
+                @Override
+                public Set<String> call() {
+                    return shard.trie.searchWords(wordString);
+                }
+            });
+        }
+        Set<String> wordSet = new HashSet<String>();
+        try {
+            for (int i = 0; i < targetShards.size(); i++) {
+                addToSetIfNotNull(wordSet, completionService.take().get());
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("search interrupted for: " + wordString, interruptedException);
+        } catch (ExecutionException executionException) {
+            throw new IllegalStateException("shard search failed for: " + wordString, executionException.getCause());
+        }
+        return wordSet.isEmpty() ? null : wordSet;
+    }
+
+    /*
+     * returns number of shards the words are currently partitioned into
+     */
+    public int getShardCount() {
+        return shardMap.size();
+    }
+
+    /*
+     * stops the threads used for scattering searches across shards
+     */
+    public void shutdown() {
+        searchExecutor.shutdown();
+    }
+
+    // returns characters of the pattern before the first wild card character
+    protected String getLiteralPrefix(String wordString) {
+        int index = 0;
+        while (index < wordString.length() && wordString.charAt(index) != '?' && wordString.charAt(index) != '*') {
+            index++;
+        }
+        return wordString.substring(0, index);
+    }
+
+    // returns all shards whose range can contain words starting with prefixString
+    protected List<Shard> getShardsForPrefix(String prefixString) {
+        List<Shard> shards = new ArrayList<Shard>();
+        for (Map.Entry<String, Shard> shardEntry : shardMap.tailMap(shardMap.floorKey(prefixString), true).entrySet()) {
+            String lowerBound = shardEntry.getKey();
+            // lower bounds are sorted, so once past the prefix range no later shard can match
+            if (lowerBound.compareTo(prefixString) > 0 && !lowerBound.startsWith(prefixString)) {
+                break;
+            }
+            shards.add(shardEntry.getValue());
+        }
+        return shards;
+    }
+
+    // splits the shard at its median word, nodes of the upper half are moved into a new shard without copying
+    private void splitShard(Shard shard) {
+        int median = shard.size / 2;
+        String splitWord = shard.trie.getWordAt(median);
+        WordsSearchTrie upperTrie = createShardTrie();
+        shard.trie.moveWordsTo(splitWord, upperTrie);
+        shardMap.put(splitWord, new Shard(upperTrie, shard.size - median));
+        shard.size = median;
+    }
+
+    public static void main(String[] args) throws IOException {
+        runSearch(new ShardedTrie(4, 100000), args);
+    }
+
+    // a single partition of the sharded trie along with number of words it holds
+    protected static class Shard {
+        private final WordsSearchTrie trie;
+        private int size;
+
+        private Shard(WordsSearchTrie trie, int size) {
+            this.trie = trie;
+            this.size = size;
+        }
+
+        public int getSize() {
+            return size;
+        }
+    }
+}
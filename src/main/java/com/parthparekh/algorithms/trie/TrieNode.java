@@ -64,6 +64,14 @@ public class TrieNode {
 		return true;
 	}
 
+	// attaches an existing node, along with its subtree, as child of this node; used for moving words between tries
+	void addChildNode(TrieNode childNode) {
+		if (childrenMap == null) {
+			childrenMap = new TreeMap<Character, TrieNode>();
+		}
+		childrenMap.put(Character.valueOf(childNode.getCharValue()), childNode);
+	}
+
 	/**
 	 * returns the child TrieNode if it exists
 	 * 
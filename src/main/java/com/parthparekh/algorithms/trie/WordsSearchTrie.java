@@ -1,12 +1,10 @@
 package com.parthparekh.algorithms.trie;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -14,7 +12,7 @@ import java.util.Set;
  *
  * @author: Parth Parekh (parthparekh [at] gatech [dot] edu)
  */
-public class WordsSearchTrie implements Trie {
+public class WordsSearchTrie extends AbstractWordsSearchTrie {
     protected TrieNode trieRoot;
     public WordsSearchTrie() {
         trieRoot = new TrieNode();
@@ -25,6 +23,12 @@ public class WordsSearchTrie implements Trie {
         if (wordString==null || wordString.isEmpty()) {
             return false;
         }
+        addNewString(wordString);
+        return true;
+    }
+
+    // adds a string to trie, returns true only if it wasn't already present in trie
+    boolean addNewString(String wordString) {
         wordString = wordString.toLowerCase();
         char[] wordCharArr = wordString.toCharArray();
         TrieNode tempRoot = trieRoot;
@@ -32,6 +36,9 @@ public class WordsSearchTrie implements Trie {
             tempRoot.addChild(charValue);
             tempRoot = tempRoot.getChild(charValue);
         }
+        if (tempRoot.isFinalChar()) {
+            return false;
+        }
         tempRoot.setFinalChar(true);
         return true;
     }
@@ -70,81 +77,7 @@ public class WordsSearchTrie implements Trie {
         return false;
     }
 
-    /*
-     * loads the words from wordlist file into trie;
-     * it assumes the wordlist file contains words delimited by newline
-     *
-     * @param filePath absolute file path of the wordlist file
-     */
-    public void loadTrie(String filePath) throws IOException {
-        if (filePath == null || filePath.isEmpty()) {
-            throw new IllegalArgumentException("wordlist file path invalid");
-        }
-
-        try {
-            File file = new File(filePath);
-            @SuppressWarnings("resource")
-	    BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file)));
-            String word;
-            while ((word = reader.readLine()) != null) {
-                assert word != null;
-                word = word.replaceAll("\\s", "").toLowerCase();
-                addString(word);
-            }
-        }
-        catch (IOException ioException) {
-  	    throw ioException;
-        }
-    }
-
-    // checks if string passed is a valid string for word solver trie
-    // i.e. only consisting of '?', '*' and alphanumeric characters
-    protected boolean isValidString(String wordString) {
-        if (wordString == null || wordString.isEmpty()) {
-            return false;
-        }
-        String newWordString = wordString.replaceAll("[^*?0-9A-Za-z]", "");
-        return wordString.trim().length() == newWordString.trim().length() ? true : false;
-    }
-
-    // replace multiple asterisk with single one
-    protected String preProcessWord(String wordString) {
-        if (wordString == null || wordString.isEmpty() || !isAsterixPresent(wordString)) {
-            return wordString;
-        }
-        StringBuffer buf = new StringBuffer();
-        boolean firstAsteriskFlag = false;
-        for(char ch : wordString.toCharArray()) {
-        	if(ch == '*') {
-        		// only add for first '*'
-        		if(!firstAsteriskFlag) {
-        			buf.append(ch);
-        			firstAsteriskFlag = true;
-        		}
-        	}
-        	else {
-        		buf.append(ch);
-        		firstAsteriskFlag = false;
-        	}
-        }
-        return buf.toString();
-    }
-    
-    // checks if asterisk is present
-    protected boolean isAsterixPresent(String wordString) {
-        if (wordString == null || wordString.isEmpty()) {
-            return false;
-        }
-        return wordString.contains("*") ? true : false;
-    }
-
-    
-    /*
-     * search all the words that satisfy the wordString format
-     *
-     * @param wordString string of characters including wild card character '?'
-     * @return returns set of all strings that satisfy the wordString format, null otherwise
-     */
+    @Override
     public Set<String> searchWords(String wordString) {
         if (!isValidString(wordString)) {
             return null;
@@ -152,7 +85,8 @@ public class WordsSearchTrie implements Trie {
         wordString = wordString.toLowerCase();
         wordString = preProcessWord(wordString);
         Set<String> finalSet = searchWords(trieRoot, wordString.toCharArray(), 0, null);
-        return finalSet;
+        // recursion can also end with an empty set, e.g. when '?' runs past the last characters
+        return finalSet == null || finalSet.isEmpty() ? null : finalSet;
     }
     
     // recursive function to search words from the trie
@@ -214,46 +148,84 @@ public class WordsSearchTrie implements Trie {
     	return null;
     }
     
-    // adds set to the wordSet only if it is not null
-    private Set<String> addToSetIfNotNull(Set<String> wordSet, Set<String> setToAdd) {
-    	assert wordSet!=null;
-    	if(setToAdd!=null && !setToAdd.isEmpty()) {
-    		wordSet.addAll(setToAdd);
-    	}
-	return wordSet;
-    }
-    
     /*
-     * prints usage instructions
+     * returns the word at given position in lexicographic order of all the words in trie
+     *
+     * @param wordIndex zero based position of the word
+     * @return returns word at wordIndex, null if trie has fewer words
      */
-    private static void usage() {
-        System.out.println("Usage:");
-        System.out.println("\tjava -cp Trie.jar com.parthparekh.algorithms.trie.WordsSearchTrie " +
-                                    "<absolute_path_to_wordlist_file> <wildcard_word_to_search>");
-        System.out.println("\t(use '?' for one character and '*' for zero or more, as wildcards)");
-        System.out.println("");
+    String getWordAt(int wordIndex) {
+        int[] wordsToSkip = {wordIndex};
+        StringBuilder wordFormed = new StringBuilder();
+        return findWordAt(trieRoot, wordsToSkip, wordFormed) ? wordFormed.toString() : null;
     }
 
-    public static void main(String[] args) throws IOException {
-        if (args.length < 2) {
-            usage();
-            System.exit(1);
+    // pre-order walk visits words in lexicographic order, as a word comes before the words it's prefix of
+    private boolean findWordAt(TrieNode curNode, int[] wordsToSkip, StringBuilder wordFormed) {
+        if (curNode.isFinalChar() && wordsToSkip[0]-- == 0) {
+            return true;
         }
-        String wordlistPath = args[0];
-        assert !wordlistPath.isEmpty();
-        WordsSearchTrie wordsSearchTrie = new WordsSearchTrie();
-        wordsSearchTrie.loadTrie(wordlistPath);
+        Set<Character> childrenValues = curNode.getChildrenValues();
+        if (childrenValues != null) {
+            for (Character childChar : childrenValues) {
+                wordFormed.append(childChar.charValue());
+                if (findWordAt(curNode.getChild(childChar), wordsToSkip, wordFormed)) {
+                    return true;
+                }
+                wordFormed.setLength(wordFormed.length() - 1);
+            }
+        }
+        return false;
+    }
 
-        String word = args[1];
-        assert !word.isEmpty();
+    /*
+     * moves all the words greater than or equal to splitWord into upperTrie;
+     * subtrees are re-attached to upperTrie instead of being copied, only the path of splitWord is created again
+     *
+     * @param splitWord word present in this trie from where the words are moved
+     * @param upperTrie empty trie receiving the words
+     */
+    void moveWordsTo(String splitWord, WordsSearchTrie upperTrie) {
+        List<TrieNode> path = new ArrayList<TrieNode>();
+        TrieNode curNode = trieRoot;
+        TrieNode upperNode = upperTrie.trieRoot;
+        for (char charValue : splitWord.toCharArray()) {
+            path.add(curNode);
+            moveChildrenAfter(charValue, curNode, upperNode);
+            curNode = curNode.getChild(charValue);
+            upperNode.addChild(charValue);
+            upperNode = upperNode.getChild(charValue);
+        }
+        // splitWord itself and every word it's prefix of are greater than or equal to it
+        upperNode.setFinalChar(curNode.isFinalChar());
+        curNode.setFinalChar(false);
+        moveChildrenAfter(-1, curNode, upperNode);
 
-        Set<String> validWords = wordsSearchTrie.searchWords(word);
-        System.out.println("Total " + validWords.size() + " matching words found for: " + word);
-        System.out.println();
-        int count = 0;
-        for (String setWord : validWords) {
-            System.out.println("" + ++count + ". " + setWord);
+        // prune the nodes left without words on the path of splitWord
+        for (int i = path.size() - 1; i >= 0; i--) {
+            if (curNode.isFinalChar() || (curNode.getChildrenValues() != null && !curNode.getChildrenValues().isEmpty())) {
+                break;
+            }
+            path.get(i).removeChild(curNode.getCharValue());
+            curNode = path.get(i);
         }
-        System.out.println();
+    }
+
+    // moves children of fromNode with character value greater than charValue to toNode, -1 moves all of them
+    private void moveChildrenAfter(int charValue, TrieNode fromNode, TrieNode toNode) {
+        Set<Character> childrenValues = fromNode.getChildrenValues();
+        if (childrenValues == null) {
+            return;
+        }
+        for (Character childChar : new ArrayList<Character>(childrenValues)) {
+            if (childChar.charValue() > charValue) {
+                toNode.addChildNode(fromNode.getChild(childChar));
+                fromNode.removeChild(childChar);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        runSearch(new WordsSearchTrie(), args);
     }
 }
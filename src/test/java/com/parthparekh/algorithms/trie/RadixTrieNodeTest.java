@@ -0,0 +1,81 @@
+package com.parthparekh.algorithms.trie;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Unit test for RadixTrieNode
+ **/
+public class RadixTrieNodeTest {
+
+	private RadixTrieNode trieNode;
+
+	@Before
+	public void setUp() {
+		trieNode = new RadixTrieNode();
+	}
+
+	@Test
+	public void rootNodeLabelTest() {
+		Assert.assertEquals(0, trieNode.getLabel().length);
+	}
+
+	@Test
+	public void addChildTest() {
+		Assert.assertNotNull(trieNode.addChild("parth".toCharArray(), 0));
+		Assert.assertNull(trieNode.addChild("part".toCharArray(), 0));
+		Assert.assertEquals("arth", new String(trieNode.addChild("parth".toCharArray(), 1).getLabel()));
+		Assert.assertEquals(2, trieNode.getChildrenCount());
+	}
+
+	@Test
+	public void removeChildTest() {
+		Assert.assertNotNull(trieNode.addChild("parth".toCharArray(), 0));
+		Assert.assertTrue(trieNode.removeChild('p'));
+		Assert.assertFalse(trieNode.removeChild('p'));
+		Assert.assertNull(trieNode.getChildrenNodes());
+	}
+
+	@Test
+	public void matchLengthTest() {
+		RadixTrieNode childNode = trieNode.addChild("parth".toCharArray(), 0);
+		Assert.assertEquals(5, childNode.matchLength("parth".toCharArray(), 0));
+		Assert.assertEquals(3, childNode.matchLength("parekh".toCharArray(), 0));
+		Assert.assertEquals(3, childNode.matchLength("par".toCharArray(), 0));
+		Assert.assertEquals(0, childNode.matchLength("parth".toCharArray(), 1));
+	}
+
+	@Test
+	public void splitAtTest() {
+		RadixTrieNode childNode = trieNode.addChild("parth".toCharArray(), 0);
+		childNode.splitAt(3);
+		Assert.assertEquals("par", new String(childNode.getLabel()));
+		Assert.assertFalse(childNode.isFinalChar());
+		RadixTrieNode grandChildNode = childNode.getChild('t');
+		Assert.assertNotNull(grandChildNode);
+		Assert.assertEquals("th", new String(grandChildNode.getLabel()));
+		Assert.assertTrue(grandChildNode.isFinalChar());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void splitAtInvalidLengthTest() {
+		trieNode.addChild("parth".toCharArray(), 0).splitAt(5);
+	}
+
+	@Test
+	public void mergeWithChildTest() {
+		RadixTrieNode childNode = trieNode.addChild("parth".toCharArray(), 0);
+		childNode.splitAt(3);
+		Assert.assertTrue(childNode.mergeWithChild());
+		Assert.assertEquals("parth", new String(childNode.getLabel()));
+		Assert.assertTrue(childNode.isFinalChar());
+		Assert.assertEquals(0, childNode.getChildrenCount());
+
+		childNode.splitAt(3);
+		childNode.setFinalChar(true);
+		Assert.assertFalse(childNode.mergeWithChild());
+	}
+}
@@ -0,0 +1,124 @@
+package com.parthparekh.algorithms.trie;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Unit test for RadixWordsSearchTrie
+ **/
+public class RadixWordsSearchTrieTest {
+
+	private RadixWordsSearchTrie radixWordsSearchTrie;
+
+	@Before
+	public void setUp() {
+		radixWordsSearchTrie = new RadixWordsSearchTrie();
+
+		radixWordsSearchTrie.addString("parth");
+		radixWordsSearchTrie.addString("parekh");
+		radixWordsSearchTrie.addString("part");
+	}
+
+    private String getWordListPath(String fileName) {
+        String executionPath = System.getProperty("user.dir");
+        String fileSeparator = System.getProperty("file.separator");
+        return executionPath + fileSeparator + "wordlist" + fileSeparator + fileName;
+    }
+
+	@Test
+	public void searchStringTest() {
+		Assert.assertTrue(radixWordsSearchTrie.hasString("parth"));
+		Assert.assertFalse(radixWordsSearchTrie.hasString("blahblah"));
+		Assert.assertFalse(radixWordsSearchTrie.hasString("par"));
+		Assert.assertFalse(radixWordsSearchTrie.hasString("parthparekh"));
+		Assert.assertTrue(radixWordsSearchTrie.hasString("part"));
+		// root, "par", "ekh", "t", "h"
+		Assert.assertEquals(5, radixWordsSearchTrie.getNodeCount());
+	}
+
+	@Test
+	public void removeStringTest() {
+		Assert.assertFalse(radixWordsSearchTrie.removeString("par"));
+		Assert.assertTrue(radixWordsSearchTrie.removeString("part"));
+		Assert.assertFalse(radixWordsSearchTrie.hasString("part"));
+		Assert.assertTrue(radixWordsSearchTrie.hasString("parth"));
+		// "t" and "h" merged back into "th"
+		Assert.assertEquals(4, radixWordsSearchTrie.getNodeCount());
+
+		Assert.assertTrue(radixWordsSearchTrie.removeString("parekh"));
+		Assert.assertTrue(radixWordsSearchTrie.hasString("parth"));
+		Assert.assertEquals(2, radixWordsSearchTrie.getNodeCount());
+
+		Assert.assertTrue(radixWordsSearchTrie.removeString("parth"));
+		Assert.assertFalse(radixWordsSearchTrie.removeString("parth"));
+		Assert.assertEquals(1, radixWordsSearchTrie.getNodeCount());
+	}
+
+    @Test
+    public void searchWordsTest() throws IOException {
+        radixWordsSearchTrie.loadTrie(getWordListPath("testwordlist.txt"));
+        Assert.assertNull(radixWordsSearchTrie.searchWords(" #$%#$%"));
+        Assert.assertEquals(1, radixWordsSearchTrie.searchWords("parth").size());
+        Assert.assertEquals(4, radixWordsSearchTrie.searchWords("a??d").size());
+        Assert.assertEquals(2, radixWordsSearchTrie.searchWords("?c???").size());
+        Assert.assertEquals(3, radixWordsSearchTrie.searchWords("?").size());
+        Assert.assertEquals(5, radixWordsSearchTrie.searchWords("a*d").size());
+        Assert.assertEquals(24, radixWordsSearchTrie.searchWords("*").size());
+        Assert.assertEquals(1, radixWordsSearchTrie.searchWords("w*xyz*xyz*k").size());
+        Assert.assertEquals(2, radixWordsSearchTrie.searchWords("w*xyz*xyz*?").size());
+        Assert.assertEquals(21, radixWordsSearchTrie.searchWords("??*?").size());
+        Assert.assertEquals(3, radixWordsSearchTrie.searchWords("e*?a").size());
+    }
+
+    @Test
+    public void sameResultsAsWordsSearchTrieTest() throws IOException {
+        WordsSearchTrie wordsSearchTrie = new WordsSearchTrie();
+        wordsSearchTrie.loadTrie(getWordListPath("testwordlist.txt"));
+        radixWordsSearchTrie = new RadixWordsSearchTrie();
+        radixWordsSearchTrie.loadTrie(getWordListPath("testwordlist.txt"));
+        String[] patterns = {"a??d", "?c???", "ab*", "e*?a", "w*xyz*xyz*?", "??*?", "*", "zz", "a?", "*zz"};
+        for (String pattern : patterns) {
+            Assert.assertEquals(pattern, wordsSearchTrie.searchWords(pattern), radixWordsSearchTrie.searchWords(pattern));
+        }
+        Assert.assertNull(radixWordsSearchTrie.searchWords("zz"));
+    }
+
+    @Test
+    public void randomAddRemoveTest() {
+        radixWordsSearchTrie = new RadixWordsSearchTrie();
+        Set<String> referenceSet = new TreeSet<String>();
+        // small alphabet and short words so that most operations split or merge shared edges
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            char[] wordArray = new char[1 + random.nextInt(6)];
+            for (int j = 0; j < wordArray.length; j++) {
+                wordArray[j] = (char) ('a' + random.nextInt(3));
+            }
+            String word = new String(wordArray);
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(word, referenceSet.remove(word), radixWordsSearchTrie.removeString(word));
+            } else {
+                radixWordsSearchTrie.addString(word);
+                referenceSet.add(word);
+            }
+            Assert.assertTrue(word, radixWordsSearchTrie.hasString(word) == referenceSet.contains(word));
+            if (i % 1000 == 999) {
+                Assert.assertEquals(referenceSet, new TreeSet<String>(radixWordsSearchTrie.searchWords("*")));
+            }
+        }
+        Assert.assertEquals(referenceSet, new TreeSet<String>(radixWordsSearchTrie.searchWords("*")));
+        for (String word : new TreeSet<String>(referenceSet)) {
+            Assert.assertTrue(word, radixWordsSearchTrie.removeString(word));
+        }
+        Assert.assertNull(radixWordsSearchTrie.searchWords("*"));
+        Assert.assertEquals(1, radixWordsSearchTrie.getNodeCount());
+    }
+}
@@ -0,0 +1,148 @@
+package com.parthparekh.algorithms.trie;
+
+import java.io.IOException;
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Unit test for ShardedTrie
+ **/
+public class ShardedTrieTest {
+
+	private ShardedTrie shardedTrie;
+
+	@Before
+	public void setUp() {
+		shardedTrie = new ShardedTrie(4, 1000);
+
+		shardedTrie.addString("parth");
+		shardedTrie.addString("parekh");
+		shardedTrie.addString("part");
+	}
+
+	@After
+	public void tearDown() {
+		shardedTrie.shutdown();
+	}
+
+    private String getWordListPath(String fileName) {
+        String executionPath = System.getProperty("user.dir");
+        String fileSeparator = System.getProperty("file.separator");
+        return executionPath + fileSeparator + "wordlist" + fileSeparator + fileName;
+    }
+
+    private void loadTrie() throws IOException {
+        shardedTrie.loadTrie(getWordListPath("testwordlist.txt"));
+    }
+
+	@Test
+	public void searchStringTest() {
+		Assert.assertTrue(shardedTrie.hasString("parth"));
+		Assert.assertFalse(shardedTrie.hasString("blahblah"));
+		Assert.assertFalse(shardedTrie.hasString("par"));
+		Assert.assertTrue(shardedTrie.hasString("part"));
+	}
+
+    @Test
+    public void shardsForPrefixTest() {
+        Assert.assertEquals(1, shardedTrie.getShardsForPrefix("par").size());
+        Assert.assertEquals(4, shardedTrie.getShardsForPrefix("").size());
+        Assert.assertEquals("par", shardedTrie.getLiteralPrefix("par?h*"));
+        Assert.assertEquals("", shardedTrie.getLiteralPrefix("*th"));
+    }
+
+    @Test
+    public void searchWordsTest() throws IOException {
+        loadTrie();
+        Assert.assertNull(shardedTrie.searchWords(" #$%#$%"));
+        Assert.assertEquals(1, shardedTrie.searchWords("parth").size());
+        Assert.assertEquals(4, shardedTrie.searchWords("a??d").size());
+        Assert.assertEquals(5, shardedTrie.searchWords("?????").size());
+        Assert.assertEquals(8, shardedTrie.searchWords("a*").size());
+        Assert.assertEquals(7, shardedTrie.searchWords("*d").size());
+        Assert.assertEquals(24, shardedTrie.searchWords("*").size());
+        Assert.assertEquals(2, shardedTrie.searchWords("w*xyz*xyz*?").size());
+        Assert.assertEquals(21, shardedTrie.searchWords("??*?").size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void removeStringTest() {
+        shardedTrie.removeString("parth");
+    }
+
+    @Test
+    public void rebalanceTest() throws IOException {
+        shardedTrie.shutdown();
+        shardedTrie = new ShardedTrie(1, 3);
+        loadTrie();
+        Assert.assertTrue(shardedTrie.getShardCount() > 1);
+        int totalSize = 0;
+        for (ShardedTrie.Shard shard : shardedTrie.getShardsForPrefix("")) {
+            Assert.assertTrue(shard.getSize() > 0 && shard.getSize() <= 3);
+            totalSize += shard.getSize();
+        }
+        Assert.assertEquals(21, totalSize);
+        Assert.assertTrue(shardedTrie.hasString("abcde"));
+        Assert.assertEquals(21, shardedTrie.searchWords("*").size());
+        Assert.assertEquals(8, shardedTrie.searchWords("a*").size());
+        Assert.assertEquals(5, shardedTrie.searchWords("a*d").size());
+    }
+
+    @Test
+    public void splitAtWordBoundaryTest() {
+        shardedTrie.shutdown();
+        shardedTrie = new ShardedTrie(1, 3);
+        shardedTrie.addString("parekh");
+        shardedTrie.addString("part");
+        shardedTrie.addString("parth");
+        shardedTrie.addString("parts");
+        // split at median word "parth", which shares prefix "par" and "part" with words of the lower shard
+        List<ShardedTrie.Shard> shards = shardedTrie.getShardsForPrefix("par");
+        Assert.assertEquals(2, shards.size());
+        Assert.assertEquals(2, shards.get(0).getSize());
+        Assert.assertEquals(2, shards.get(1).getSize());
+        Assert.assertEquals(2, shardedTrie.getShardsForPrefix("part").size());
+        Assert.assertEquals(1, shardedTrie.getShardsForPrefix("parth").size());
+        Assert.assertEquals(4, shardedTrie.searchWords("par*").size());
+        Assert.assertEquals(3, shardedTrie.searchWords("part*").size());
+        Assert.assertEquals(2, shardedTrie.searchWords("part?").size());
+        Assert.assertTrue(shardedTrie.hasString("part"));
+        Assert.assertTrue(shardedTrie.hasString("parth"));
+        Assert.assertFalse(shardedTrie.hasString("par"));
+    }
+
+    @Test
+    public void initialShardBoundsTest() throws IOException {
+        loadTrie();
+        // letters only spread the initial bounds, so words from a to f and digits all go to the first shard
+        List<ShardedTrie.Shard> shards = shardedTrie.getShardsForPrefix("");
+        Assert.assertEquals(4, shards.size());
+        Assert.assertEquals(19, shards.get(0).getSize());
+        Assert.assertEquals(1, shardedTrie.getShardsForPrefix("f").size());
+        Assert.assertSame(shards.get(0), shardedTrie.getShardsForPrefix("1").get(0));
+        Assert.assertSame(shards.get(0), shardedTrie.getShardsForPrefix("f").get(0));
+        Assert.assertSame(shards.get(1), shardedTrie.getShardsForPrefix("g").get(0));
+    }
+
+    @Test
+    public void sameResultsAsWordsSearchTrieTest() throws IOException {
+        WordsSearchTrie wordsSearchTrie = new WordsSearchTrie();
+        wordsSearchTrie.loadTrie(getWordListPath("testwordlist.txt"));
+        shardedTrie.shutdown();
+        shardedTrie = new ShardedTrie(4, 2);
+        loadTrie();
+        Assert.assertTrue(shardedTrie.getShardCount() > 10);
+        String[] patterns = {"a??d", "ab*", "e*?a", "w*xyz*xyz*?", "*d", "??*?", "*"};
+        for (String pattern : patterns) {
+            Assert.assertEquals(pattern, wordsSearchTrie.searchWords(pattern), shardedTrie.searchWords(pattern));
+        }
+        Assert.assertNull(shardedTrie.searchWords("z*"));
+        Assert.assertNull(shardedTrie.searchWords("*zz"));
+    }
+}
@@ -70,6 +70,33 @@ public class WordsSearchTrieTest extends WordsSearchTrie {
         Assert.assertEquals("pa*?", wordSolverTrieTest.preProcessWord("pa*?"));
     }
     
+    @Test
+    public void addNewStringTest() {
+        Assert.assertFalse(wordsSearchTrie.addNewString("Parth"));
+        Assert.assertTrue(wordsSearchTrie.addNewString("par"));
+        Assert.assertFalse(wordsSearchTrie.addNewString("par"));
+        Assert.assertTrue(wordsSearchTrie.hasString("par"));
+    }
+
+    @Test
+    public void moveWordsTest() {
+        wordsSearchTrie.addString("par");
+        Assert.assertEquals("par", wordsSearchTrie.getWordAt(0));
+        Assert.assertEquals("parth", wordsSearchTrie.getWordAt(3));
+        Assert.assertNull(wordsSearchTrie.getWordAt(4));
+
+        WordsSearchTrie upperTrie = new WordsSearchTrie();
+        wordsSearchTrie.moveWordsTo("part", upperTrie);
+        Assert.assertTrue(wordsSearchTrie.hasString("par"));
+        Assert.assertTrue(wordsSearchTrie.hasString("parekh"));
+        Assert.assertFalse(wordsSearchTrie.hasString("part"));
+        Assert.assertEquals(2, wordsSearchTrie.searchWords("*").size());
+        Assert.assertTrue(upperTrie.hasString("part"));
+        Assert.assertTrue(upperTrie.hasString("parth"));
+        Assert.assertFalse(upperTrie.hasString("parekh"));
+        Assert.assertEquals(2, upperTrie.searchWords("*").size());
+    }
+
     @Test
     public void searchWordsWithSingleCharacterWildCard() throws IOException {
         loadTrie();